@@ -0,0 +1,127 @@
+package io.ionic.starter;
+
+import android.app.AlarmManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.util.Log;
+
+/**
+ * Single place that decides how daily fact alarms are registered with AlarmManager.
+ *
+ * <ul>
+ *   <li>{@link #MODE_EXACT}: the user wants minute precision and the app may schedule exact alarms
+ *   (Android 12+ requires the exact-alarm permission); setExactAndAllowWhileIdle.</li>
+ *   <li>{@link #MODE_FALLBACK}: precision wanted but not permitted; setAndAllowWhileIdle, which the
+ *   OS may batch but which still fires in Doze, so losing the permission stays close to on time.</li>
+ *   <li>{@link #MODE_INEXACT}: the user opted out of precision; setWindow over a wide window, which
+ *   the OS batches with other wakeups and may defer to a Doze maintenance window.</li>
+ * </ul>
+ */
+final class FactMeAlarmScheduler {
+
+    private static final String TAG = "FactMeAlarmScheduler";
+
+    static final String MODE_EXACT = "exact";
+    static final String MODE_FALLBACK = "fallback";
+    static final String MODE_INEXACT = "inexact";
+
+    static final String EXTRA_SCHEDULED_AT = "scheduledAt";
+    static final String EXTRA_ALARM_MODE = "alarmMode";
+
+    static final String KEY_PREFER_EXACT = "alarmPreferExact";
+    static final String KEY_ALARM_MODE = "alarmMode";
+    static final String KEY_REQUESTED_ALARM_MODE = "alarmRequestedMode";
+    static final String KEY_LAST_DELIVERY_SKEW_MS = "alarmLastDeliverySkewMs";
+    static final String KEY_LAST_DELIVERY_MODE = "alarmLastDeliveryMode";
+
+    /** Delivery window for {@link #MODE_INEXACT}. */
+    private static final long INEXACT_WINDOW_MS = 30 * 60 * 1000L;
+
+    private FactMeAlarmScheduler() {
+    }
+
+    static boolean canScheduleExactAlarms(AlarmManager am) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            return am.canScheduleExactAlarms();
+        }
+        return true;
+    }
+
+    static boolean isExactPreferred(Context context) {
+        return prefs(context).getBoolean(KEY_PREFER_EXACT, true);
+    }
+
+    static String resolveMode(Context context, AlarmManager am) {
+        if (!isExactPreferred(context)) {
+            return MODE_INEXACT;
+        }
+        return canScheduleExactAlarms(am) ? MODE_EXACT : MODE_FALLBACK;
+    }
+
+    /**
+     * Tags {@code intent} with its trigger time and the mode it will be registered with, so the
+     * receiver can record skew and mode for this very alarm. Call before creating the PendingIntent
+     * and pass the returned mode to {@link #schedule}.
+     */
+    static String prepare(Context context, AlarmManager am, Intent intent, long triggerAt) {
+        String mode = resolveMode(context, am);
+        intent.putExtra(EXTRA_SCHEDULED_AT, triggerAt);
+        intent.putExtra(EXTRA_ALARM_MODE, mode);
+        return mode;
+    }
+
+    /**
+     * Registers the alarm with the mode chosen by {@link #prepare} and records both the requested and
+     * the applied mode. If an exact registration is rejected the alarm is registered as
+     * {@link #MODE_FALLBACK}; the intent then still reports exact. Change detection compares against
+     * the requested mode, so a persistent rejection does not make every reschedule look stale.
+     */
+    static String schedule(Context context, AlarmManager am, String mode, long triggerAt, PendingIntent pending) {
+        String requestedMode = mode;
+        try {
+            register(am, mode, triggerAt, pending);
+        } catch (SecurityException e) {
+            Log.w(TAG, "Exact alarm rejected, falling back to inexact", e);
+            mode = MODE_FALLBACK;
+            register(am, mode, triggerAt, pending);
+        }
+        prefs(context).edit()
+                .putString(KEY_ALARM_MODE, mode)
+                .putString(KEY_REQUESTED_ALARM_MODE, requestedMode)
+                .apply();
+        return mode;
+    }
+
+    /** Stores how late (or early) the alarm behind {@code intent} fired and the mode it was registered with. */
+    static void recordDelivery(Context context, Intent intent) {
+        long scheduledAt = intent.getLongExtra(EXTRA_SCHEDULED_AT, 0L);
+        if (scheduledAt <= 0L) {
+            return;
+        }
+        prefs(context).edit()
+                .putLong(KEY_LAST_DELIVERY_SKEW_MS, System.currentTimeMillis() - scheduledAt)
+                .putString(KEY_LAST_DELIVERY_MODE, intent.getStringExtra(EXTRA_ALARM_MODE))
+                .apply();
+    }
+
+    private static void register(AlarmManager am, String mode, long triggerAt, PendingIntent pending) {
+        switch (mode) {
+            case MODE_EXACT:
+                am.setExactAndAllowWhileIdle(AlarmManager.RTC, triggerAt, pending);
+                break;
+            case MODE_FALLBACK:
+                am.setAndAllowWhileIdle(AlarmManager.RTC, triggerAt, pending);
+                break;
+            default:
+                am.setWindow(AlarmManager.RTC, triggerAt, INEXACT_WINDOW_MS, pending);
+                break;
+        }
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getSharedPreferences(FactMeNotificationPlugin.PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
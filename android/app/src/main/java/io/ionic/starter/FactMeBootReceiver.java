@@ -63,15 +63,10 @@ public class FactMeBootReceiver extends BroadcastReceiver {
                 alarmIntent.putExtra(FactMeNotificationReceiver.EXTRA_WEEKDAY, weekday);
                 alarmIntent.putExtra(FactMeNotificationReceiver.EXTRA_HOUR, hour);
                 alarmIntent.putExtra(FactMeNotificationReceiver.EXTRA_MINUTE, minute);
+                String mode = FactMeAlarmScheduler.prepare(context, am, alarmIntent, trigger);
 
                 PendingIntent pending = PendingIntent.getBroadcast(context, id, alarmIntent, flags);
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-                    am.setExactAndAllowWhileIdle(AlarmManager.RTC, trigger, pending);
-                } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && !am.canScheduleExactAlarms()) {
-                    am.set(AlarmManager.RTC, trigger, pending);
-                } else {
-                    am.setExact(AlarmManager.RTC, trigger, pending);
-                }
+                FactMeAlarmScheduler.schedule(context, am, mode, trigger, pending);
             }
         } catch (Exception e) {
             android.util.Log.e("FactMeBootReceiver", "Re-schedule after boot failed", e);
@@ -16,6 +16,7 @@ import android.media.AudioAttributes;
 import android.media.RingtoneManager;
 import android.net.Uri;
 import android.os.Build;
+import android.provider.Settings;
 import androidx.core.app.NotificationCompat;
 import androidx.core.app.NotificationManagerCompat;
 import androidx.core.content.ContextCompat;
@@ -41,6 +42,7 @@ public class FactMeNotificationPlugin extends Plugin {
     private static final String KEY_FACTS_BY_DATE = "factsByDate";
     static final String KEY_DAILY_SCHEDULE = "dailySchedule";
     static final String KEY_SOUND_ENABLED = "soundEnabled";
+    static final String KEY_SCHEDULE_FINGERPRINT = "scheduleFingerprint";
     private static final String APP_SOUND_RAW_NAME = "notification_sound";
 
     private Context getContextSafe() {
@@ -185,9 +187,10 @@ public class FactMeNotificationPlugin extends Plugin {
                 intent.putExtra(FactMeNotificationReceiver.EXTRA_WEEKDAY, weekday);
                 intent.putExtra(FactMeNotificationReceiver.EXTRA_HOUR, hour);
                 intent.putExtra(FactMeNotificationReceiver.EXTRA_MINUTE, minute);
+                String mode = FactMeAlarmScheduler.prepare(context, am, intent, trigger);
 
                 PendingIntent pending = PendingIntent.getBroadcast(context, id, intent, flags);
-                scheduleAlarm(am, trigger, pending);
+                FactMeAlarmScheduler.schedule(context, am, mode, trigger, pending);
 
                 scheduleJson.put(o);
             }
@@ -259,6 +262,77 @@ public class FactMeNotificationPlugin extends Plugin {
         }
     }
 
+    @PluginMethod
+    public void setAlarmOptions(PluginCall call) {
+        Context context = getContextSafe();
+        if (context == null) {
+            call.reject("Context not available");
+            return;
+        }
+        try {
+            Boolean preferExact = call.getBoolean("preferExact", true);
+            SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+            prefs.edit().putBoolean(FactMeAlarmScheduler.KEY_PREFER_EXACT, preferExact != null && preferExact).apply();
+            call.resolve();
+        } catch (Throwable t) {
+            Log.e(TAG, "setAlarmOptions failed", t);
+            call.reject(t.getMessage());
+        }
+    }
+
+    /** Reports the alarm mode in use, whether exact alarms are permitted and the last observed delivery skew. */
+    @PluginMethod
+    public void getAlarmStrategy(PluginCall call) {
+        Context context = getContextSafe();
+        if (context == null) {
+            call.reject("Context not available");
+            return;
+        }
+        try {
+            SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+            AlarmManager am = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+            JSObject result = new JSObject();
+            result.put("preferExact", FactMeAlarmScheduler.isExactPreferred(context));
+            result.put("canScheduleExact", am != null && FactMeAlarmScheduler.canScheduleExactAlarms(am));
+            result.put("mode", prefs.getString(FactMeAlarmScheduler.KEY_ALARM_MODE, null));
+            if (prefs.contains(FactMeAlarmScheduler.KEY_LAST_DELIVERY_SKEW_MS)) {
+                result.put("lastDeliverySkewMs", prefs.getLong(FactMeAlarmScheduler.KEY_LAST_DELIVERY_SKEW_MS, 0L));
+                result.put("lastDeliveryMode", prefs.getString(FactMeAlarmScheduler.KEY_LAST_DELIVERY_MODE, null));
+            }
+            call.resolve(result);
+        } catch (Throwable t) {
+            Log.e(TAG, "getAlarmStrategy failed", t);
+            call.reject(t.getMessage());
+        }
+    }
+
+    /** Opens the system screen for granting exact alarms when they are currently not permitted (Android 12+). */
+    @PluginMethod
+    public void requestExactAlarmPermission(PluginCall call) {
+        Context context = getContextSafe();
+        if (context == null) {
+            call.reject("Context not available");
+            return;
+        }
+        try {
+            AlarmManager am = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+            boolean opened = false;
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S
+                    && am != null
+                    && !FactMeAlarmScheduler.canScheduleExactAlarms(am)) {
+                Intent intent = new Intent(Settings.ACTION_REQUEST_SCHEDULE_EXACT_ALARM);
+                intent.setData(Uri.parse("package:" + context.getPackageName()));
+                intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+                context.startActivity(intent);
+                opened = true;
+            }
+            call.resolve(new JSObject().put("opened", opened));
+        } catch (Throwable t) {
+            Log.e(TAG, "requestExactAlarmPermission failed", t);
+            call.reject(t.getMessage());
+        }
+    }
+
     static Uri getNotificationSoundUri(Context context) {
         SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
         boolean soundEnabled = prefs.getBoolean(KEY_SOUND_ENABLED, true);
@@ -313,7 +387,10 @@ public class FactMeNotificationPlugin extends Plugin {
                 }
             }
             context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
-                    .edit().remove(KEY_DAILY_SCHEDULE).apply();
+                    .edit()
+                    .remove(KEY_DAILY_SCHEDULE)
+                    .remove(KEY_SCHEDULE_FINGERPRINT)
+                    .apply();
             call.resolve();
         } catch (Throwable t) {
             Log.e(TAG, "cancelDailyNotifications failed", t);
@@ -321,14 +398,94 @@ public class FactMeNotificationPlugin extends Plugin {
         }
     }
 
-    private static void scheduleAlarm(AlarmManager am, long triggerAt, PendingIntent pending) {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-            am.setExactAndAllowWhileIdle(AlarmManager.RTC, triggerAt, pending);
-        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && !am.canScheduleExactAlarms()) {
-            am.set(AlarmManager.RTC, triggerAt, pending);
-        } else {
-            am.setExact(AlarmManager.RTC, triggerAt, pending);
+    /**
+     * Stores the fingerprint of the configuration JS has just applied (weekdays, time, sound,
+     * theme, topics, language and facts window). Cleared whenever the daily alarms are cancelled.
+     */
+    @PluginMethod
+    public void setScheduleFingerprint(PluginCall call) {
+        Context context = getContextSafe();
+        if (context == null) {
+            call.reject("Context not available");
+            return;
+        }
+        try {
+            String fingerprint = call.getString("fingerprint");
+            SharedPreferences.Editor editor = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE).edit();
+            if (fingerprint == null || fingerprint.isEmpty()) {
+                editor.remove(KEY_SCHEDULE_FINGERPRINT);
+            } else {
+                editor.putString(KEY_SCHEDULE_FINGERPRINT, fingerprint);
+            }
+            editor.apply();
+            call.resolve();
+        } catch (Throwable t) {
+            Log.e(TAG, "setScheduleFingerprint failed", t);
+            call.reject(t.getMessage());
+        }
+    }
+
+    /**
+     * Returns the stored fingerprint, or null when none is stored, when any recorded alarm is no
+     * longer registered (e.g. after a force stop) or when the alarm mode would now differ (e.g. the
+     * exact-alarm permission was granted or revoked), so JS re-applies instead of trusting stale state.
+     */
+    @PluginMethod
+    public void getScheduleFingerprint(PluginCall call) {
+        Context context = getContextSafe();
+        if (context == null) {
+            call.reject("Context not available");
+            return;
+        }
+        try {
+            SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+            String fingerprint = prefs.getString(KEY_SCHEDULE_FINGERPRINT, null);
+            if (fingerprint != null
+                    && (!areScheduledAlarmsRegistered(context, prefs) || hasAlarmModeChanged(context, prefs))) {
+                fingerprint = null;
+            }
+            JSObject result = new JSObject();
+            result.put("fingerprint", fingerprint != null ? fingerprint : JSONObject.NULL);
+            call.resolve(result);
+        } catch (Throwable t) {
+            Log.e(TAG, "getScheduleFingerprint failed", t);
+            call.reject(t.getMessage());
+        }
+    }
+
+    /**
+     * Compares the mode last requested (not the one applied after a rejected exact registration)
+     * with the mode that would be chosen now, so only permission or preference changes count.
+     */
+    private static boolean hasAlarmModeChanged(Context context, SharedPreferences prefs) {
+        String requestedMode = prefs.getString(FactMeAlarmScheduler.KEY_REQUESTED_ALARM_MODE, null);
+        AlarmManager am = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+        if (requestedMode == null || am == null) {
+            return false;
+        }
+        return !requestedMode.equals(FactMeAlarmScheduler.resolveMode(context, am));
+    }
+
+    private static boolean areScheduledAlarmsRegistered(Context context, SharedPreferences prefs) throws JSONException {
+        String scheduleJson = prefs.getString(KEY_DAILY_SCHEDULE, null);
+        if (scheduleJson == null || scheduleJson.isEmpty()) {
+            return true;
+        }
+        int flags = PendingIntent.FLAG_NO_CREATE;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            flags |= PendingIntent.FLAG_MUTABLE;
+        }
+        JSONArray list = new JSONArray(scheduleJson);
+        for (int i = 0; i < list.length(); i++) {
+            int id = list.getJSONObject(i).getInt("id");
+            Intent intent = new Intent(context, FactMeNotificationReceiver.class);
+            intent.setAction(FactMeNotificationReceiver.ACTION_DAILY);
+            PendingIntent pending = PendingIntent.getBroadcast(context, id, intent, flags);
+            if (pending == null) {
+                return false;
+            }
         }
+        return true;
     }
 
     static long nextTriggerTime(int weekday, int hour, int minute) {
@@ -41,6 +41,7 @@ public class FactMeNotificationReceiver extends BroadcastReceiver {
     @Override
     public void onReceive(Context context, Intent intent) {
         if (intent == null || !ACTION_DAILY.equals(intent.getAction())) return;
+        FactMeAlarmScheduler.recordDelivery(context, intent);
 
         int id = intent.getIntExtra(EXTRA_ID, 0);
         String titleFallback = intent.getStringExtra(EXTRA_TITLE);
@@ -95,21 +96,18 @@ public class FactMeNotificationReceiver extends BroadcastReceiver {
         nextIntent.putExtra(EXTRA_HOUR, hour);
         nextIntent.putExtra(EXTRA_MINUTE, minute);
 
+        AlarmManager am = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+        if (am == null) {
+            return;
+        }
+        String mode = FactMeAlarmScheduler.prepare(context, am, nextIntent, nextTrigger);
+
         int flags = PendingIntent.FLAG_CANCEL_CURRENT;
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
             flags |= PendingIntent.FLAG_MUTABLE;
         }
         PendingIntent pending = PendingIntent.getBroadcast(context, id, nextIntent, flags);
-        AlarmManager am = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
-        if (am != null) {
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-                am.setExactAndAllowWhileIdle(AlarmManager.RTC, nextTrigger, pending);
-            } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && !am.canScheduleExactAlarms()) {
-                am.set(AlarmManager.RTC, nextTrigger, pending);
-            } else {
-                am.setExact(AlarmManager.RTC, nextTrigger, pending);
-            }
-        }
+        FactMeAlarmScheduler.schedule(context, am, mode, nextTrigger, pending);
     }
 
     static NotificationCompat.Builder buildNotification(Context context, String title, String body,
@@ -0,0 +1,267 @@
+#!/usr/bin/env node
+/**
+ * Scale benchmark for fact loading and selection against a corpus produced by generate.mjs
+ * (or the shipped one under src/assets).
+ *
+ *   npm run corpus:bench -- --root .corpus --lang en
+ *
+ * The npm script first compiles src/app/utils/fact-index.util.ts (the module FactService
+ * uses) with scripts/fact-corpus/tsconfig.json, so the benchmark measures the app's own
+ * lookup and selection code rather than a copy.
+ *
+ * Reports load time, retained heap, peak RSS and per-operation latency for:
+ *   - topic file loading (read + JSON.parse, as HttpClient does)
+ *   - ID lookup (FactService.getFactById)
+ *   - date selection with exclusions (FactService.getRandomFactForDate$)
+ *   - the 14-day notification window and the size of the factsByDate JSON handed to the
+ *     native plugin. The Java JSONObject parse in FactMeNotificationReceiver is NOT measured.
+ *
+ * Options:
+ *   --root <dir>            directory containing facts/<lang>/ (default: src/assets)
+ *   --lang <lang>           language folder (default: en)
+ *   --build <dir>           compiled fact-index output (default: .corpus/build)
+ *   --samples <n>           lookups / selections to time (default: 2000)
+ *   --seed <n>              seed for sampled IDs and dates (default: 7)
+ *   --max-load-ms <n>       fail if total load time exceeds n
+ *   --max-lookup-ms <n>     fail if p95 ID lookup exceeds n
+ *   --max-select-ms <n>     fail if cold or warm p95 date selection exceeds n
+ *   --max-window-ms <n>     fail if building the notification window exceeds n
+ */
+import { existsSync, readFileSync } from 'node:fs';
+import { createRequire } from 'node:module';
+import { join, resolve } from 'node:path';
+import { performance } from 'node:perf_hooks';
+import { ALL_TOPICS, numberOption, parseArgs } from './shared.mjs';
+
+const NOTIFICATION_FACTS_DAYS = 14;
+const EXCLUDED_PER_SELECTION = 5;
+
+function loadFactIndexUtil(buildDir) {
+  const path = resolve(buildDir, 'utils', 'fact-index.util.js');
+  if (!existsSync(path)) {
+    console.error(
+      `No compiled fact index at ${path}. Run "npm run corpus:bench" or ` +
+        '"npx tsc -p scripts/fact-corpus/tsconfig.json" first.',
+    );
+    process.exit(1);
+  }
+  return createRequire(import.meta.url)(path).FactIndexUtil;
+}
+
+function collectGarbage() {
+  if (typeof global.gc === 'function') {
+    global.gc();
+  }
+}
+
+function createRandom(seed) {
+  let state = seed >>> 0;
+  return () => {
+    state = (state * 1664525 + 1013904223) >>> 0;
+    return state / 4294967296;
+  };
+}
+
+function percentile(sorted, p) {
+  if (!sorted.length) {
+    return 0;
+  }
+  const index = Math.min(sorted.length - 1, Math.ceil((p / 100) * sorted.length) - 1);
+  return sorted[Math.max(0, index)];
+}
+
+function summarize(label, durations) {
+  const sorted = [...durations].sort((a, b) => a - b);
+  const mean = sorted.reduce((sum, d) => sum + d, 0) / (sorted.length || 1);
+  const row = {
+    label,
+    samples: sorted.length,
+    meanMs: mean,
+    p95Ms: percentile(sorted, 95),
+    maxMs: sorted[sorted.length - 1] ?? 0,
+  };
+  console.log(
+    `${label.padEnd(28)} n=${String(row.samples).padEnd(6)} ` +
+      `mean=${row.meanMs.toFixed(3)}ms p95=${row.p95Ms.toFixed(3)}ms max=${row.maxMs.toFixed(3)}ms`,
+  );
+  return row;
+}
+
+function mb(bytes) {
+  return `${(bytes / 1024 / 1024).toFixed(1)} MB`;
+}
+
+function loadTopics(dir) {
+  const files = [];
+  let totalMs = 0;
+  let totalBytes = 0;
+  for (const topic of ALL_TOPICS) {
+    const path = join(dir, `${topic}.json`);
+    if (!existsSync(path)) {
+      continue;
+    }
+    const start = performance.now();
+    const raw = readFileSync(path, 'utf8');
+    const file = JSON.parse(raw);
+    const elapsed = performance.now() - start;
+    totalMs += elapsed;
+    totalBytes += raw.length;
+    files.push(file);
+    const count = Object.values(file.facts).reduce((sum, entries) => sum + entries.length, 0);
+    console.log(`load ${topic.padEnd(23)} ${String(count).padStart(8)} facts  ${mb(raw.length).padStart(9)}  ${elapsed.toFixed(1)}ms`);
+  }
+  return { files, totalMs, totalBytes };
+}
+
+function collectIds(files) {
+  const ids = [];
+  files.forEach((file) => {
+    Object.values(file.facts).forEach((entries) => {
+      entries.forEach((entry) => ids.push(entry.id));
+    });
+  });
+  return ids;
+}
+
+/** Times the same steps as FactService.getFactById once topic files are cached. */
+function benchIdLookup(util, files, ids, samples, random) {
+  const filesByTopic = new Map(files.map((file) => [file.topic, file]));
+  const loadedTopics = files.map((file) => file.topic);
+  const durations = [];
+  for (let i = 0; i < samples && ids.length; i++) {
+    const id = ids[Math.floor(random() * ids.length)];
+    const start = performance.now();
+    const candidateFiles = util
+      .getCandidateTopicsForId(id, loadedTopics)
+      .map((topic) => filesByTopic.get(topic));
+    const fact = util.findFactById(candidateFiles, id);
+    durations.push(performance.now() - start);
+    if (!fact) {
+      throw new Error(`Lookup failed for ${id}`);
+    }
+  }
+  return summarize('getFactById', durations);
+}
+
+function randomDate(random) {
+  const date = new Date(2024, 0, 1);
+  date.setDate(date.getDate() + Math.floor(random() * 366));
+  return date;
+}
+
+/**
+ * Times up to EXCLUDED_PER_SELECTION + 1 picks per sampled day, excluding each pick from the next.
+ * The first pick on a day not yet in the index builds that day's candidates and is reported as
+ * cold; every other pick is warm. Each pick is timed on its own, so days with fewer candidates
+ * do not dilute the figures.
+ */
+function benchDateSelection(util, files, samples, random) {
+  const index = util.createDayIndex(files);
+  const coldDurations = [];
+  const warmDurations = [];
+  for (let i = 0; i < samples; i++) {
+    const dateKey = util.toMonthDayKey(randomDate(random));
+    const excluded = [];
+    for (let k = 0; k <= EXCLUDED_PER_SELECTION; k++) {
+      const isCold = !index.days.has(dateKey);
+      const start = performance.now();
+      const fact = util.pickRandomCandidate(index, dateKey, excluded, random);
+      const elapsed = performance.now() - start;
+      (isCold ? coldDurations : warmDurations).push(elapsed);
+      if (!fact) {
+        break;
+      }
+      excluded.push(fact.id);
+    }
+  }
+  return {
+    cold: summarize('getRandomFactForDate (cold)', coldDurations),
+    warm: summarize('getRandomFactForDate (warm)', warmDurations),
+  };
+}
+
+function benchNotificationWindow(util, files, random) {
+  const index = util.createDayIndex(files);
+  const start = performance.now();
+  const factsByDate = {};
+  const day = new Date();
+  for (let i = 0; i < NOTIFICATION_FACTS_DAYS; i++) {
+    const d = new Date(day);
+    d.setDate(day.getDate() + i);
+    const fact = util.pickRandomCandidate(index, util.toMonthDayKey(d), undefined, random);
+    factsByDate[d.toISOString().slice(0, 10)] = {
+      title: fact?.title ?? '',
+      body: fact?.description ?? '',
+    };
+  }
+  const payload = JSON.stringify(factsByDate);
+  const buildMs = performance.now() - start;
+
+  console.log(
+    `${'notification window'.padEnd(28)} build=${buildMs.toFixed(3)}ms ` +
+      `factsByDate=${payload.length}B (native JSONObject parse not measured)`,
+  );
+  return buildMs;
+}
+
+function checkBudget(failures, label, actual, budget) {
+  if (budget === undefined) {
+    return;
+  }
+  if (actual > budget) {
+    failures.push(`${label}: ${actual.toFixed(3)}ms > ${budget}ms`);
+  }
+}
+
+function main() {
+  const args = parseArgs(process.argv.slice(2));
+  const root = args.root ?? 'src/assets';
+  const lang = args.lang ?? 'en';
+  const samples = numberOption(args, 'samples', 2000, { min: 1, integer: true });
+  const random = createRandom(numberOption(args, 'seed', 7, { integer: true }));
+  const budgets = {
+    load: numberOption(args, 'max-load-ms', undefined, { min: 0 }),
+    lookup: numberOption(args, 'max-lookup-ms', undefined, { min: 0 }),
+    select: numberOption(args, 'max-select-ms', undefined, { min: 0 }),
+    window: numberOption(args, 'max-window-ms', undefined, { min: 0 }),
+  };
+  const dir = join(root, 'facts', lang);
+
+  if (!existsSync(dir)) {
+    console.error(`No corpus at ${dir}. Generate one with scripts/fact-corpus/generate.mjs.`);
+    process.exit(1);
+  }
+  const util = loadFactIndexUtil(args.build ?? '.corpus/build');
+  if (typeof global.gc !== 'function') {
+    console.warn('Run with --expose-gc for stable retained-heap figures.');
+  }
+
+  collectGarbage();
+  const baselineHeap = process.memoryUsage().heapUsed;
+
+  const { files, totalMs, totalBytes } = loadTopics(dir);
+  collectGarbage();
+  const retainedHeap = process.memoryUsage().heapUsed - baselineHeap;
+  console.log(`load total ${totalMs.toFixed(1)}ms, ${mb(totalBytes)} JSON, ~${mb(retainedHeap)} retained heap`);
+
+  const ids = collectIds(files);
+  const lookup = benchIdLookup(util, files, ids, samples, random);
+  const selection = benchDateSelection(util, files, samples, random);
+  const windowMs = benchNotificationWindow(util, files, random);
+
+  // maxRSS is reported in kilobytes and includes transient peaks such as JSON.parse.
+  console.log(`peak rss ${mb(process.resourceUsage().maxRSS * 1024)}`);
+
+  const failures = [];
+  checkBudget(failures, 'load', totalMs, budgets.load);
+  checkBudget(failures, 'getFactById p95', lookup.p95Ms, budgets.lookup);
+  checkBudget(failures, 'getRandomFactForDate cold p95', selection.cold.p95Ms, budgets.select);
+  checkBudget(failures, 'getRandomFactForDate warm p95', selection.warm.p95Ms, budgets.select);
+  checkBudget(failures, 'notification window', windowMs, budgets.window);
+  if (failures.length) {
+    console.error(`Budget exceeded:\n  ${failures.join('\n  ')}`);
+    process.exit(1);
+  }
+}
+
+main();
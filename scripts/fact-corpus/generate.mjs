@@ -0,0 +1,106 @@
+#!/usr/bin/env node
+/**
+ * Generates a synthetic fact corpus shaped like src/assets/facts/{lang}/{topic}.json.
+ *
+ * Output is deterministic for a given --seed, so scale runs are comparable over time.
+ *
+ *   node scripts/fact-corpus/generate.mjs --facts-per-topic 100000 --out .corpus
+ *
+ * Options:
+ *   --out <dir>               output root (default: .corpus); files go to <out>/facts/<lang>/<topic>.json
+ *   --facts-per-topic <n>     facts per topic file (default: 10000)
+ *   --langs <a,b>             languages (default: en)
+ *   --topics <a,b>            topics (default: all app topics)
+ *   --seed <n>                PRNG seed (default: 42)
+ *   --skew <0..1>             share of facts concentrated on 10% of days, to mimic uneven content (default: 0)
+ */
+import { mkdirSync, writeFileSync } from 'node:fs';
+import { join } from 'node:path';
+import { ALL_TOPICS, numberOption, parseArgs } from './shared.mjs';
+
+const DAYS_IN_MONTH = [31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31];
+
+const WORDS = [
+  'ancient', 'river', 'signal', 'empire', 'orbit', 'melody', 'record', 'treaty',
+  'engine', 'harbor', 'novel', 'theory', 'league', 'voyage', 'archive', 'canvas',
+  'summit', 'charter', 'circuit', 'festival', 'mind', 'frontier', 'lantern', 'census',
+];
+
+/** Mulberry32: small, fast and good enough for reproducible test data. */
+function createRandom(seed) {
+  let state = seed >>> 0;
+  return () => {
+    state = (state + 0x6d2b79f5) >>> 0;
+    let t = state;
+    t = Math.imul(t ^ (t >>> 15), t | 1);
+    t ^= t + Math.imul(t ^ (t >>> 7), t | 61);
+    return ((t ^ (t >>> 14)) >>> 0) / 4294967296;
+  };
+}
+
+function allMonthDayKeys() {
+  const keys = [];
+  DAYS_IN_MONTH.forEach((days, monthIndex) => {
+    const month = (monthIndex + 1).toString().padStart(2, '0');
+    for (let day = 1; day <= days; day++) {
+      keys.push(`${month}-${day.toString().padStart(2, '0')}`);
+    }
+  });
+  return keys;
+}
+
+function sentence(random, wordCount) {
+  const words = [];
+  for (let i = 0; i < wordCount; i++) {
+    words.push(WORDS[Math.floor(random() * WORDS.length)]);
+  }
+  const text = words.join(' ');
+  return text.charAt(0).toUpperCase() + text.slice(1);
+}
+
+function buildTopicFile(topic, lang, factsPerTopic, skew, random) {
+  const dayKeys = allMonthDayKeys();
+  const hotDays = dayKeys.slice(0, Math.max(1, Math.floor(dayKeys.length / 10)));
+  const facts = {};
+  const perDayCounters = new Map();
+
+  for (let i = 0; i < factsPerTopic; i++) {
+    const pool = random() < skew ? hotDays : dayKeys;
+    const dateKey = pool[Math.floor(random() * pool.length)];
+    const index = (perDayCounters.get(dateKey) ?? 0) + 1;
+    perDayCounters.set(dateKey, index);
+
+    (facts[dateKey] ??= []).push({
+      id: `${topic}-${dateKey.replace('-', '')}-${index}`,
+      title: `${sentence(random, 4)} (${lang})`,
+      description: `${sentence(random, 28)}.`,
+    });
+  }
+
+  return { topic, facts };
+}
+
+function main() {
+  const args = parseArgs(process.argv.slice(2));
+  const out = args.out ?? '.corpus';
+  const factsPerTopic = numberOption(args, 'facts-per-topic', 10000, { min: 1, integer: true });
+  const langs = (args.langs ?? 'en').split(',');
+  const topics = args.topics ? args.topics.split(',') : ALL_TOPICS;
+  const seed = numberOption(args, 'seed', 42, { integer: true });
+  const skew = numberOption(args, 'skew', 0, { min: 0, max: 1 });
+
+  langs.forEach((lang, langIndex) => {
+    const dir = join(out, 'facts', lang);
+    mkdirSync(dir, { recursive: true });
+    topics.forEach((topic, topicIndex) => {
+      const random = createRandom(seed + langIndex * 1000 + topicIndex);
+      const file = buildTopicFile(topic, lang, factsPerTopic, skew, random);
+      const path = join(dir, `${topic}.json`);
+      const json = JSON.stringify(file);
+      writeFileSync(path, json);
+      console.log(`${path}  ${factsPerTopic} facts  ${(json.length / 1024 / 1024).toFixed(1)} MB`);
+    });
+  });
+}
+
+main();
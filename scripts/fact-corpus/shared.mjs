@@ -0,0 +1,65 @@
+/**
+ * Helpers shared by the corpus generator and the scale benchmark. Fact lookup and
+ * selection are not duplicated here: the benchmark runs the compiled
+ * src/app/utils/fact-index.util.ts that FactService uses.
+ */
+
+export const ALL_TOPICS = [
+  'history',
+  'science',
+  'world-events',
+  'technology',
+  'music',
+  'film-tv',
+  'sports',
+  'fun-facts',
+  'literature',
+  'psychology',
+];
+
+export function parseArgs(argv) {
+  const args = {};
+  for (let i = 0; i < argv.length; i++) {
+    const token = argv[i];
+    if (!token.startsWith('--')) {
+      continue;
+    }
+    const key = token.slice(2);
+    const next = argv[i + 1];
+    if (next === undefined || next.startsWith('--')) {
+      args[key] = 'true';
+    } else {
+      args[key] = next;
+      i++;
+    }
+  }
+  return args;
+}
+
+/**
+ * Reads a numeric option, exiting non-zero when it is present but not a finite
+ * number within [min, max] (or not an integer when `integer` is set).
+ */
+export function numberOption(args, key, fallback, { min = -Infinity, max = Infinity, integer = false } = {}) {
+  const raw = args[key];
+  if (raw === undefined) {
+    return fallback;
+  }
+  const value = Number(raw);
+  const valid =
+    raw.trim() !== '' &&
+    Number.isFinite(value) &&
+    value >= min &&
+    value <= max &&
+    (!integer || Number.isInteger(value));
+  if (!valid) {
+    const kind = integer ? 'an integer' : 'a number';
+    const bounds = [
+      Number.isFinite(min) ? `>= ${min}` : null,
+      Number.isFinite(max) ? `<= ${max}` : null,
+    ].filter(Boolean).join(' and ');
+    console.error(`--${key} must be ${kind}${bounds ? ` ${bounds}` : ''}, got "${raw}"`);
+    process.exit(1);
+  }
+  return value;
+}
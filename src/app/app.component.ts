@@ -116,7 +116,7 @@ export class AppComponent implements OnDestroy {
           FactMeNotification.clearDisplayedNotifications().then(() => {
             const settings = this.settingsService.getSettings();
             if (settings.notificationsEnabled && (settings.notificationWeekdays?.length ?? 0) > 0) {
-              this.notificationService.rescheduleDailyNotification$(settings)
+              this.notificationService.rescheduleDailyNotification$()
                 .pipe(takeUntil(this.destroy$))
                 .subscribe();
             }
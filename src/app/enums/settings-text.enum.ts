@@ -14,6 +14,9 @@ export enum SettingsText {
   NotificationsTimeLabel = 'settings.notificationsTimeLabel',
   NotificationsDaysLabel = 'settings.notificationsDaysLabel',
   NotificationsSoundToggleLabel = 'settings.notificationsSoundToggleLabel',
+  NotificationsExactTimingToggleLabel = 'settings.notificationsExactTimingToggleLabel',
+  NotificationsExactTimingUnavailable = 'settings.notificationsExactTimingUnavailable',
+  NotificationsExactTimingAllowButton = 'settings.notificationsExactTimingAllowButton',
 
   ThemeLanguageSectionTitle = 'settings.themeLanguageSectionTitle',
   ThemeLanguageSectionSubtitle = 'settings.themeLanguageSectionSubtitle',
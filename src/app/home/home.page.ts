@@ -162,10 +162,7 @@ export class HomePage implements OnInit, OnDestroy, ViewWillEnter {
             switchMap(() => {
               if (this.facts.length > 0) {
                 return this.notificationService
-                  .rescheduleDailyNotification$(
-                    this.settingsService.getSettings(),
-                    this.facts[0],
-                  )
+                  .rescheduleDailyNotification$(this.facts[0])
                   .pipe(
                     catchError((e) => {
                       console.warn('Could not reschedule notification:', e);
@@ -208,10 +205,7 @@ export class HomePage implements OnInit, OnDestroy, ViewWillEnter {
       switchMap(() => {
         if (this.facts.length > 0) {
           return this.notificationService
-            .rescheduleDailyNotification$(
-              this.settingsService.getSettings(),
-              this.facts[0],
-            )
+            .rescheduleDailyNotification$(this.facts[0])
             .pipe(
               catchError((e) => {
                 console.warn('Could not reschedule notification:', e);
@@ -344,10 +338,7 @@ export class HomePage implements OnInit, OnDestroy, ViewWillEnter {
     this.settingsService.setLastFactsLoadSettingsKey(settingsKey);
 
     return this.notificationService
-      .rescheduleDailyNotification$(
-        this.settingsService.getSettings(),
-        facts.length > 0 ? facts[0] : undefined,
-      )
+      .rescheduleDailyNotification$(facts.length > 0 ? facts[0] : undefined)
       .pipe(
         catchError((e) => {
           console.warn('Could not reschedule notification:', e);
@@ -35,6 +35,8 @@ export interface AppSettings {
   notificationWeekdays: Weekday[];
   /** When true, notifications play app-provided sound (or phone default as fallback). When false, silent. */
   notificationSoundEnabled: boolean;
+  /** When true, notifications fire at the exact minute if the OS allows it. When false, the OS may batch them within a window to save battery. */
+  notificationExactTiming: boolean;
   /** ISO date (YYYY-MM-DD) when facts were last shown for Home, or null if never. */
   lastShownDate: string | null;
   /** ID of the last fact shown in single-fact mode, or null if none. */
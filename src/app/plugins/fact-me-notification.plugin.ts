@@ -22,6 +22,18 @@ export interface NotificationFactsByDate {
   [isoDate: string]: NotificationFactEntry;
 }
 
+export type AlarmMode = 'exact' | 'fallback' | 'inexact';
+
+export interface AlarmStrategyInfo {
+  preferExact: boolean;
+  canScheduleExact: boolean;
+  /** Mode used for the most recently registered alarm; null if none has been registered yet. */
+  mode: AlarmMode | null;
+  /** Delivery time minus trigger time of the last fired alarm, in milliseconds. */
+  lastDeliverySkewMs?: number;
+  lastDeliveryMode?: AlarmMode | null;
+}
+
 export interface FactMeNotificationPlugin {
   showTestNotification(options: {
     title: string;
@@ -35,6 +47,12 @@ export interface FactMeNotificationPlugin {
   clearDisplayedNotifications(): Promise<void>;
   setNotificationFacts(options: { facts: NotificationFactsByDate }): Promise<void>;
   setNotificationSoundOptions(options: { soundEnabled: boolean }): Promise<void>;
+  setAlarmOptions(options: { preferExact: boolean }): Promise<void>;
+  getAlarmStrategy(): Promise<AlarmStrategyInfo>;
+  requestExactAlarmPermission(): Promise<{ opened: boolean }>;
+  /** Fingerprint of the last fully applied schedule; null if none or its alarms are gone. */
+  getScheduleFingerprint(): Promise<{ fingerprint: string | null }>;
+  setScheduleFingerprint(options: { fingerprint: string | null }): Promise<void>;
 }
 
 const FactMeNotification = registerPlugin<FactMeNotificationPlugin>('FactMeNotification');
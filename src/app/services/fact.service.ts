@@ -2,26 +2,33 @@ import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import {
   Fact,
-  FactJsonEntry,
   TopicFactsFile,
   TopicKey,
 } from '../models/fact.models';
 import { SettingsService } from './settings.service';
 import { Language } from '../enums/language.enum';
-import { Topic } from '../enums/topic.enum';
-import { forkJoin, Observable, of } from 'rxjs';
+import { FactDayIndex, FactIndexUtil } from '../utils/fact-index.util';
+import { defer, forkJoin, Observable, of } from 'rxjs';
 import { catchError, map, shareReplay, tap } from 'rxjs/operators';
 
 function topicCacheKey(topic: TopicKey, lang: Language): string {
   return `${lang}|${topic}`;
 }
 
+const MAX_DAY_INDEXES = 16;
+
+function dayIndexKey(topics: TopicKey[], lang: Language): string {
+  return `${lang}|${[...topics].sort().join(',')}`;
+}
+
 @Injectable({
   providedIn: 'root',
 })
 export class FactService {
   private cache = new Map<string, TopicFactsFile>();
   private loadingStreams = new Map<string, Observable<TopicFactsFile>>();
+  private dayIndexes = new Map<string, FactDayIndex>();
+  private dayIndexLanguage: Language | null = null;
 
   constructor(
     private http: HttpClient,
@@ -33,70 +40,71 @@ export class FactService {
     topics: TopicKey[],
     excludeIds?: string[],
   ): Observable<Fact | null> {
-    const dateKey = this.toMonthDayKey(date);
-
-    return forkJoin(
-      topics.map((topic) => this.loadTopic$(topic)),
-    ).pipe(
-      map((topicFiles) => {
-        const allFactsForDate: Fact[] = [];
-
-        topicFiles.forEach((file) => {
-          const entriesForDate = file.facts[dateKey] ?? [];
-          entriesForDate.forEach((entry) => {
-            allFactsForDate.push({
-              ...entry,
-              topic: file.topic,
-            });
-          });
-        });
-
-        if (allFactsForDate.length === 0) {
-          return null;
-        }
-
-        const excludeSet = new Set(excludeIds ?? []);
-        const candidates = excludeSet.size
-          ? allFactsForDate.filter((f) => !excludeSet.has(f.id))
-          : allFactsForDate;
-
-        const randomIndex = Math.floor(Math.random() * candidates.length);
-        return candidates[randomIndex] ?? null;
-      }),
-    );
+    return defer(() => {
+      const dateKey = FactIndexUtil.toMonthDayKey(date);
+      const lang = this.getLanguage();
+      const indexKey = dayIndexKey(topics, lang);
+
+      const index = this.getDayIndex(indexKey, lang);
+      if (index) {
+        return of(FactIndexUtil.pickRandomCandidate(index, dateKey, excludeIds));
+      }
+
+      return this.buildDayIndex$(topics, indexKey, lang).pipe(
+        map((built) => FactIndexUtil.pickRandomCandidate(built, dateKey, excludeIds)),
+      );
+    });
   }
 
   getFactById(id: string, topics: TopicKey[]): Observable<Fact | null> {
-    const topicFromId = this.extractTopicFromId(id);
-    const candidateTopics: TopicKey[] =
-      topicFromId && topics.includes(topicFromId)
-        ? [topicFromId]
-        : topics;
+    const candidateTopics = FactIndexUtil.getCandidateTopicsForId(id, topics);
 
     if (!candidateTopics.length) {
       return of(null);
     }
 
     return forkJoin(candidateTopics.map((topic) => this.loadTopic$(topic))).pipe(
-      map((files) => {
-        for (const file of files) {
-          for (const [, entries] of Object.entries(file.facts)) {
-            const match = (entries as FactJsonEntry[]).find((e) => e.id === id);
-            if (match) {
-              return {
-                ...match,
-                topic: file.topic,
-              } as Fact;
-            }
-          }
-        }
-        return null;
+      map((files) => FactIndexUtil.findFactById(files, id)),
+    );
+  }
+
+  private getLanguage(): Language {
+    return this.settingsService.getSettings().language ?? Language.English;
+  }
+
+  private buildDayIndex$(
+    topics: TopicKey[],
+    indexKey: string,
+    lang: Language,
+  ): Observable<FactDayIndex> {
+    return forkJoin(
+      topics.map((topic) => this.loadTopic$(topic)),
+    ).pipe(
+      map((topicFiles) => {
+        const built = FactIndexUtil.createDayIndex(topicFiles);
+        this.setDayIndex(indexKey, lang, built);
+        return built;
       }),
     );
   }
 
+  private getDayIndex(key: string, lang: Language): FactDayIndex | null {
+    if (this.dayIndexLanguage !== lang) {
+      return null;
+    }
+    return this.dayIndexes.get(key) ?? null;
+  }
+
+  private setDayIndex(key: string, lang: Language, index: FactDayIndex): void {
+    if (this.dayIndexLanguage !== lang || this.dayIndexes.size >= MAX_DAY_INDEXES) {
+      this.dayIndexes.clear();
+      this.dayIndexLanguage = lang;
+    }
+    this.dayIndexes.set(key, index);
+  }
+
   private loadTopic$(topic: TopicKey): Observable<TopicFactsFile> {
-    const lang = this.settingsService.getSettings().language ?? Language.English;
+    const lang = this.getLanguage();
     const key = topicCacheKey(topic, lang);
 
     const cached = this.cache.get(key);
@@ -146,16 +154,4 @@ export class FactService {
     this.loadingStreams.set(key, stream);
     return stream;
   }
-
-  private toMonthDayKey(date: Date): string {
-    const month = (date.getMonth() + 1).toString().padStart(2, '0');
-    const day = date.getDate().toString().padStart(2, '0');
-    return `${month}-${day}`;
-  }
-
-  private extractTopicFromId(id: string): TopicKey | null {
-    const prefix = id.split('-')[0] as TopicKey | undefined;
-    const validTopics = Object.values(Topic) as TopicKey[];
-    return prefix && validTopics.includes(prefix) ? prefix : null;
-  }
 }
@@ -3,6 +3,7 @@ import { Platform } from '@ionic/angular';
 import { Capacitor } from '@capacitor/core';
 import { LocalNotifications } from '@capacitor/local-notifications';
 import {
+  AlarmStrategyInfo,
   FactMeNotification,
   NotificationFactEntry,
   NotificationFactsByDate,
@@ -12,21 +13,38 @@ import { NotificationText } from '../enums/notification-text.enum';
 import { Topic } from '../enums/topic.enum';
 import { TranslationService } from './translation.service';
 import { FactService } from './fact.service';
-import { from, of } from 'rxjs';
-import { catchError, concatMap, map, switchMap } from 'rxjs/operators';
+import { SettingsService } from './settings.service';
+import { defer, from, Observable, of, Subject } from 'rxjs';
+import {
+  catchError,
+  concatMap,
+  debounceTime,
+  finalize,
+  map,
+  switchMap,
+} from 'rxjs/operators';
 
 const DAILY_FACT_NOTIFICATION_IDS = [1, 2, 3, 4, 5, 6, 7];
 const NOTIFICATION_FACTS_DAYS = 14;
+const RESCHEDULE_DEBOUNCE_MS = 300;
 
 @Injectable({
   providedIn: 'root',
 })
 export class NotificationService {
+  private rescheduleRequests = new Subject<void>();
+  private pendingRescheduleWaiters: Subject<void>[] = [];
+  /** Most recent explicit fact among the coalesced requests; undefined if none passed one. */
+  private pendingRescheduleFact: Fact | null | undefined = undefined;
+
   constructor(
     private platform: Platform,
     private translationService: TranslationService,
     private factService: FactService,
-  ) {}
+    private settingsService: SettingsService,
+  ) {
+    this.handleRescheduleRequests();
+  }
 
   ensurePermissions$() {
     if (!this.platform.is('hybrid')) {
@@ -45,14 +63,144 @@ export class NotificationService {
     );
   }
 
-  rescheduleDailyNotification$(
-    settings: AppSettings,
-    fact?: Fact | null,
-  ) {
+  /** Native alarm strategy on Android; null elsewhere or if the plugin call fails. */
+  getAlarmStrategy$(): Observable<AlarmStrategyInfo | null> {
+    if (!this.platform.is('hybrid') || Capacitor.getPlatform() !== 'android') {
+      return of(null);
+    }
+    return from(FactMeNotification.getAlarmStrategy()).pipe(
+      catchError(() => of(null)),
+    );
+  }
+
+  /** Sends the user to the system exact-alarm setting if exact alarms are not permitted. */
+  requestExactAlarmPermission$(): Observable<boolean> {
+    if (!this.platform.is('hybrid') || Capacitor.getPlatform() !== 'android') {
+      return of(false);
+    }
+    return from(FactMeNotification.requestExactAlarmPermission()).pipe(
+      map((result) => result.opened),
+      catchError(() => of(false)),
+    );
+  }
+
+  /**
+   * Requests a reschedule. Requests arriving within RESCHEDULE_DEBOUNCE_MS of
+   * each other are coalesced into one apply; every caller completes once that
+   * apply has finished. The apply reads the current settings from
+   * SettingsService when it runs and keeps the most recent explicit `fact`
+   * passed by any coalesced caller.
+   */
+  rescheduleDailyNotification$(fact?: Fact | null): Observable<void> {
     if (!this.platform.is('hybrid')) {
       return of(void 0);
     }
 
+    return defer(() => {
+      const done = new Subject<void>();
+      this.pendingRescheduleWaiters.push(done);
+      if (fact !== undefined) {
+        this.pendingRescheduleFact = fact;
+      }
+      this.rescheduleRequests.next();
+      return done.asObservable();
+    });
+  }
+
+  private handleRescheduleRequests(): void {
+    this.rescheduleRequests
+      .pipe(
+        debounceTime(RESCHEDULE_DEBOUNCE_MS),
+        map(() => {
+          const fact = this.pendingRescheduleFact;
+          this.pendingRescheduleFact = undefined;
+          return {
+            fact,
+            waiters: this.pendingRescheduleWaiters.splice(0),
+          };
+        }),
+        concatMap(({ fact, waiters }) =>
+          this.applyRescheduleIfChanged$(this.settingsService.getSettings(), fact).pipe(
+            finalize(() => {
+              waiters.forEach((waiter) => {
+                waiter.next();
+                waiter.complete();
+              });
+            }),
+          ),
+        ),
+      )
+      .subscribe();
+  }
+
+  /**
+   * On Android, compares the fingerprint of the requested configuration with
+   * the one the native plugin recorded on its last successful apply and skips
+   * the cancel/re-register cycle when they match.
+   */
+  private applyRescheduleIfChanged$(
+    settings: AppSettings,
+    fact?: Fact | null,
+  ): Observable<void> {
+    if (Capacitor.getPlatform() !== 'android') {
+      return this.applyDailyNotification$(settings, fact).pipe(map(() => void 0));
+    }
+
+    return this.getCurrentFactFromSettings$(settings, fact).pipe(
+      concatMap((effectiveFact) => {
+        const fingerprint = this.getScheduleFingerprint(settings, effectiveFact);
+
+        return from(FactMeNotification.getScheduleFingerprint()).pipe(
+          map((result) => result.fingerprint),
+          catchError(() => of(null)),
+          concatMap((appliedFingerprint) => {
+            if (appliedFingerprint === fingerprint) {
+              return of(void 0);
+            }
+
+            return this.applyDailyNotification$(settings, effectiveFact).pipe(
+              concatMap((applied) =>
+                applied
+                  ? from(FactMeNotification.setScheduleFingerprint({ fingerprint }))
+                  : of(void 0),
+              ),
+            );
+          }),
+        );
+      }),
+      catchError(() => of(void 0)),
+    );
+  }
+
+  /** Everything the native schedule and its facts window are derived from. */
+  private getScheduleFingerprint(settings: AppSettings, fact: Fact | null): string {
+    const topics =
+      settings.selectedTopics?.length > 0
+        ? settings.selectedTopics
+        : ALL_TOPICS;
+    return JSON.stringify({
+      weekdays: settings.notificationWeekdays,
+      time: settings.notificationTime,
+      sound: settings.notificationSoundEnabled,
+      exactTiming: settings.notificationExactTiming,
+      theme: settings.theme,
+      topics: [...topics].sort(),
+      language: this.translationService.getLanguage(),
+      windowStart: this.toIsoDate(new Date()),
+      windowDays: NOTIFICATION_FACTS_DAYS,
+      factId: fact?.id ?? null,
+    });
+  }
+
+  /**
+   * Cancels and re-registers the daily notifications. Emits true when the
+   * scheduled state now reflects `settings`, false when it was left partial
+   * (no fact, no permission, or a failure) so the next request retries.
+   */
+  private applyDailyNotification$(
+    settings: AppSettings,
+    fact?: Fact | null,
+  ): Observable<boolean> {
     const weekdays = settings.notificationWeekdays;
     const useNativeScheduling = Capacitor.getPlatform() === 'android';
 
@@ -70,19 +218,19 @@ export class NotificationService {
       ),
       concatMap(() => {
         if (weekdays.length === 0) {
-          return of(void 0);
+          return of(true);
         }
 
         return this.getCurrentFactFromSettings$(settings, fact).pipe(
           concatMap((effectiveFact) => {
             if (!effectiveFact) {
-              return of(void 0);
+              return of(false);
             }
 
             return this.ensurePermissions$().pipe(
               concatMap((hasPermission) => {
                 if (!hasPermission) {
-                  return of(void 0);
+                  return of(false);
                 }
 
                 return this.translationService
@@ -109,16 +257,18 @@ export class NotificationService {
                             soundEnabled: settings.notificationSoundEnabled,
                           }),
                         ).pipe(
+                          concatMap(() =>
+                            from(FactMeNotification.setAlarmOptions({
+                              preferExact: settings.notificationExactTiming,
+                            })),
+                          ),
                           concatMap(() =>
                             this.buildNotificationFactsByDate$(settings, effectiveFact),
                           ),
                           concatMap((factsByDate) => {
-                            const ops = [];
-                            if (Object.keys(factsByDate).length > 0) {
-                              ops.push(
-                                from(FactMeNotification.setNotificationFacts({ facts: factsByDate })),
-                              );
-                            }
+                            const setFacts$ = Object.keys(factsByDate).length > 0
+                              ? defer(() => FactMeNotification.setNotificationFacts({ facts: factsByDate }))
+                              : of(void 0);
 
                             const notifications = weekdays.map((weekday: Weekday, index: number) => ({
                               id: DAILY_FACT_NOTIFICATION_IDS[index] ?? DAILY_FACT_NOTIFICATION_IDS[0],
@@ -131,12 +281,13 @@ export class NotificationService {
                               minute,
                             }));
 
-                            ops.push(
-                              from(FactMeNotification.scheduleDailyNotifications({ notifications })),
+                            return setFacts$.pipe(
+                              concatMap(() =>
+                                from(FactMeNotification.scheduleDailyNotifications({ notifications })),
+                              ),
                             );
-
-                            return ops.length ? ops[ops.length - 1] : of(void 0);
                           }),
+                          map(() => true),
                         );
                       }
 
@@ -160,7 +311,9 @@ export class NotificationService {
                         },
                       }));
 
-                      return from(LocalNotifications.schedule({ notifications }));
+                      return from(LocalNotifications.schedule({ notifications })).pipe(
+                        map(() => true),
+                      );
                     }),
                   );
               }),
@@ -168,7 +321,7 @@ export class NotificationService {
           }),
         );
       }),
-      catchError(() => of(void 0)),
+      catchError(() => of(false)),
     );
   }
 
@@ -157,6 +157,7 @@ export class SettingsService {
       notificationTime: '09:00',
       notificationWeekdays: [...ALL_WEEKDAYS],
       notificationSoundEnabled: true,
+      notificationExactTiming: true,
       lastShownDate: null,
       lastShownFactId: null,
       shownFactIds: [],
@@ -14,11 +14,15 @@ export class SettingsNotificationsSectionComponent {
   @Input() notificationTime!: string | null;
   @Input() notificationWeekdays: Weekday[] = [];
   @Input() notificationSoundEnabled = true;
+  @Input() notificationExactTiming = true;
+  @Input() exactTimingUnavailable = false;
 
   @Output() notificationsToggleChange = new EventEmitter<boolean>();
   @Output() timeChanged = new EventEmitter<string | string[] | null>();
   @Output() weekdaysChanged = new EventEmitter<Weekday[]>();
   @Output() soundToggleChange = new EventEmitter<boolean>();
+  @Output() exactTimingToggleChange = new EventEmitter<boolean>();
+  @Output() exactTimingPermissionRequest = new EventEmitter<void>();
   @Output() testNotification = new EventEmitter<void>();
 
   readonly weekdayOptions: { value: Weekday; labelKey: string }[] = [
@@ -11,9 +11,9 @@ import { NotificationService } from '../services/notification.service';
 import { SettingsText } from '../enums/settings-text.enum';
 import { TranslationService } from '../services/translation.service';
 import { Language } from '../enums/language.enum';
-import { ToastController } from '@ionic/angular';
+import { Platform, ToastController } from '@ionic/angular';
 import { Subject, EMPTY, from } from 'rxjs';
-import { catchError, switchMap, takeUntil } from 'rxjs/operators';
+import { catchError, filter, map, switchMap, takeUntil } from 'rxjs/operators';
 
 @Component({
   selector: 'app-settings',
@@ -25,6 +25,8 @@ export class SettingsPage implements OnInit, OnDestroy {
   topics = ALL_TOPICS;
   settings!: AppSettings;
   settingsText = SettingsText;
+  /** True when the native side cannot schedule exact alarms (Android 12+ permission not granted). */
+  exactTimingUnavailable = false;
   defaultLanguage = Language.English;
   languages = [
     { code: Language.English, label: 'English', flag: '🇺🇸' },
@@ -40,6 +42,7 @@ export class SettingsPage implements OnInit, OnDestroy {
     private notificationService: NotificationService,
     private translationService: TranslationService,
     private toastController: ToastController,
+    private platform: Platform,
   ) {}
 
   ngOnInit(): void {
@@ -52,6 +55,23 @@ export class SettingsPage implements OnInit, OnDestroy {
           this.settings = s;
         }
       });
+
+    this.refreshExactTimingState$()
+      .pipe(takeUntil(this.destroy$))
+      .subscribe();
+
+    this.platform.resume
+      .pipe(
+        switchMap(() => this.refreshExactTimingState$()),
+        filter((changed) => changed && this.settings.notificationExactTiming),
+        switchMap(() =>
+          this.notificationService
+            .rescheduleDailyNotification$()
+            .pipe(catchError(() => EMPTY)),
+        ),
+        takeUntil(this.destroy$),
+      )
+      .subscribe();
   }
 
   ngOnDestroy(): void {
@@ -125,7 +145,7 @@ export class SettingsPage implements OnInit, OnDestroy {
       .loadTranslations$(lang)
       .pipe(
         switchMap(() =>
-          this.notificationService.rescheduleDailyNotification$(this.settings),
+          this.notificationService.rescheduleDailyNotification$(),
         ),
         catchError(() => EMPTY),
       )
@@ -146,7 +166,7 @@ export class SettingsPage implements OnInit, OnDestroy {
     }
 
     this.notificationService
-      .rescheduleDailyNotification$(this.settings)
+      .rescheduleDailyNotification$()
       .pipe(catchError(() => EMPTY))
       .subscribe();
   }
@@ -162,7 +182,7 @@ export class SettingsPage implements OnInit, OnDestroy {
     });
 
     this.notificationService
-      .rescheduleDailyNotification$(this.settings)
+      .rescheduleDailyNotification$()
       .pipe(catchError(() => EMPTY))
       .subscribe();
   }
@@ -175,7 +195,7 @@ export class SettingsPage implements OnInit, OnDestroy {
     });
 
     this.notificationService
-      .rescheduleDailyNotification$(this.settings)
+      .rescheduleDailyNotification$()
       .pipe(catchError(() => EMPTY))
       .subscribe();
   }
@@ -185,11 +205,32 @@ export class SettingsPage implements OnInit, OnDestroy {
       notificationSoundEnabled: enabled,
     });
     this.notificationService
-      .rescheduleDailyNotification$(this.settings)
+      .rescheduleDailyNotification$()
       .pipe(catchError(() => EMPTY))
       .subscribe();
   }
 
+  onExactTimingToggleChange(enabled: boolean): void {
+    this.settings = this.settingsService.update({
+      notificationExactTiming: enabled,
+    });
+    this.notificationService
+      .rescheduleDailyNotification$()
+      .pipe(catchError(() => EMPTY))
+      .subscribe();
+
+    if (enabled && this.exactTimingUnavailable) {
+      this.onExactTimingPermissionRequest();
+    }
+  }
+
+  onExactTimingPermissionRequest(): void {
+    this.notificationService
+      .requestExactAlarmPermission$()
+      .pipe(takeUntil(this.destroy$))
+      .subscribe();
+  }
+
   onTestNotification(): void {
     this.notificationService
       .showTestNotification$(this.settings)
@@ -208,6 +249,18 @@ export class SettingsPage implements OnInit, OnDestroy {
       .subscribe();
   }
 
+  /** Updates exactTimingUnavailable; emits whether it changed. */
+  private refreshExactTimingState$() {
+    return this.notificationService.getAlarmStrategy$().pipe(
+      map((strategy) => {
+        const unavailable = !!strategy && !strategy.canScheduleExact;
+        const changed = unavailable !== this.exactTimingUnavailable;
+        this.exactTimingUnavailable = unavailable;
+        return changed;
+      }),
+    );
+  }
+
   private showDataClearedToast() {
     const message = this.translationService.translate(SettingsText.DataClearedToast);
     return from(
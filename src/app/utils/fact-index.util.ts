@@ -0,0 +1,135 @@
+import { Topic } from '../enums/topic.enum';
+import {
+  Fact,
+  FactJsonEntry,
+  TopicFactsFile,
+  TopicKey,
+} from '../models/fact.models';
+
+/** Candidates for one month-day; entries are the parsed JSON objects, not copies. */
+export interface FactDayCandidates {
+  entries: FactJsonEntry[];
+  topics: TopicKey[];
+}
+
+/** Lazily filled per-day candidate lists for one set of loaded topic files. */
+export interface FactDayIndex {
+  files: TopicFactsFile[];
+  days: Map<string, FactDayCandidates>;
+}
+
+/**
+ * Pure lookup and selection over loaded topic files. Kept free of Angular so the
+ * corpus scale benchmark (scripts/fact-corpus) runs exactly this code.
+ */
+export class FactIndexUtil {
+  static createDayIndex(files: TopicFactsFile[]): FactDayIndex {
+    return {
+      files,
+      days: new Map<string, FactDayCandidates>(),
+    };
+  }
+
+  static getDayCandidates(index: FactDayIndex, dateKey: string): FactDayCandidates {
+    const existing = index.days.get(dateKey);
+    if (existing) {
+      return existing;
+    }
+
+    const candidates: FactDayCandidates = { entries: [], topics: [] };
+    index.files.forEach((file) => {
+      const entriesForDate = file.facts[dateKey];
+      if (!entriesForDate) {
+        return;
+      }
+      for (const entry of entriesForDate) {
+        candidates.entries.push(entry);
+        candidates.topics.push(file.topic);
+      }
+    });
+    index.days.set(dateKey, candidates);
+    return candidates;
+  }
+
+  /**
+   * Picks uniformly among the day's candidates that are not excluded, without
+   * building a filtered copy: one pass counts the eligible entries, a second
+   * pass stops at the chosen one.
+   */
+  static pickRandomCandidate(
+    index: FactDayIndex,
+    dateKey: string,
+    excludeIds?: string[],
+    random: () => number = Math.random,
+  ): Fact | null {
+    const { entries, topics } = this.getDayCandidates(index, dateKey);
+    if (entries.length === 0) {
+      return null;
+    }
+
+    const exclusions = excludeIds?.length ? excludeIds : null;
+    let eligibleCount = entries.length;
+    if (exclusions) {
+      eligibleCount = 0;
+      for (const entry of entries) {
+        if (!exclusions.includes(entry.id)) {
+          eligibleCount++;
+        }
+      }
+    }
+
+    if (eligibleCount === 0) {
+      return null;
+    }
+
+    let remaining = Math.floor(random() * eligibleCount);
+    for (let i = 0; i < entries.length; i++) {
+      if (exclusions && exclusions.includes(entries[i].id)) {
+        continue;
+      }
+      if (remaining === 0) {
+        return {
+          ...entries[i],
+          topic: topics[i],
+        };
+      }
+      remaining--;
+    }
+    return null;
+  }
+
+  /** Narrows `topics` to the one encoded in the ID prefix when it is among them. */
+  static getCandidateTopicsForId(id: string, topics: TopicKey[]): TopicKey[] {
+    const topicFromId = this.extractTopicFromId(id);
+    return topicFromId && topics.includes(topicFromId)
+      ? [topicFromId]
+      : topics;
+  }
+
+  static findFactById(files: TopicFactsFile[], id: string): Fact | null {
+    for (const file of files) {
+      for (const [, entries] of Object.entries(file.facts)) {
+        const match = (entries as FactJsonEntry[]).find((e) => e.id === id);
+        if (match) {
+          return {
+            ...match,
+            topic: file.topic,
+          } as Fact;
+        }
+      }
+    }
+    return null;
+  }
+
+  static toMonthDayKey(date: Date): string {
+    const month = (date.getMonth() + 1).toString().padStart(2, '0');
+    const day = date.getDate().toString().padStart(2, '0');
+    return `${month}-${day}`;
+  }
+
+  private static extractTopicFromId(id: string): TopicKey | null {
+    const prefix = id.split('-')[0] as TopicKey | undefined;
+    const validTopics = Object.values(Topic) as TopicKey[];
+    return prefix && validTopics.includes(prefix) ? prefix : null;
+  }
+}